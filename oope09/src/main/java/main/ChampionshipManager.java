@@ -18,6 +18,12 @@ public class ChampionshipManager {
     
     /** List of all race results */
     private List<RaceResult> races;
+
+    /** Dictionary of driver names shared by off-heap race results */
+    private StringDictionary driverNames;
+
+    /** Mergeable sketches of the results recorded in this championship */
+    private ChampionshipSketches sketches;
     
     /** Total number of registered drivers */
     private static int totalDrivers = 0;
@@ -32,6 +38,8 @@ public class ChampionshipManager {
     private ChampionshipManager() {
         drivers = new ArrayList<>();
         races = new ArrayList<>();
+        driverNames = new StringDictionary();
+        sketches = new ChampionshipSketches();
     }
 
     /**
@@ -106,6 +114,25 @@ public class ChampionshipManager {
         return new ArrayList<>(drivers);
     }
 
+    /**
+     * Gets the dictionary of driver names used by off-heap race results.
+     *
+     * @return the shared driver name dictionary
+     */
+    public StringDictionary getDriverNameDictionary() {
+        return driverNames;
+    }
+
+    /**
+     * Gets the statistics sketches of this championship.
+     * Race results feed them when created with these sketches.
+     *
+     * @return the championship sketches
+     */
+    public ChampionshipSketches getSketches() {
+        return sketches;
+    }
+
     /**
      * Gets the total number of registered drivers.
      *
@@ -0,0 +1,103 @@
+package main;
+
+/**
+ * Mergeable, constant-memory sketches of the championship results.
+ * Every recorded result updates a points distribution, a distinct-country
+ * count and points per country and per car manufacturer. Sketches built by
+ * separate championships, for example one per season processed in parallel,
+ * can be combined with merge. The sketches are not thread-safe; parallel
+ * work should fill one instance per worker and merge them at the end.
+ */
+public class ChampionshipSketches {
+    /** Distribution of points awarded per result */
+    private QuantileSketch pointsDistribution;
+
+    /** Distinct countries of drivers with recorded results */
+    private HyperLogLog countries;
+
+    /** Points awarded per driver country */
+    private CountMinSketch countryPoints;
+
+    /** Points awarded per car manufacturer */
+    private CountMinSketch manufacturerPoints;
+
+    /**
+     * Creates a new empty set of championship sketches.
+     */
+    public ChampionshipSketches() {
+        pointsDistribution = new QuantileSketch();
+        countries = new HyperLogLog();
+        countryPoints = new CountMinSketch();
+        manufacturerPoints = new CountMinSketch();
+    }
+
+    /**
+     * Updates the sketches with a recorded race result.
+     * Drivers without a country or car manufacturer only update the
+     * sketches they have data for. Negative points (penalties) are included in the points distribution but
+     * add no weight to countries or manufacturers, since count-min estimates
+     * are only bounded for non-negative updates.
+     *
+     * @param driver the driver whose result was recorded
+     * @param points the points awarded for the result
+     */
+    public void record(Driver driver, int points) {
+        long weight = Math.max(points, 0);
+        pointsDistribution.add(points);
+        if (driver.getCountry() != null) {
+            countries.add(driver.getCountry());
+            countryPoints.add(driver.getCountry(), weight);
+        }
+        if (driver.getCar() != null && driver.getCar().getMake() != null) {
+            manufacturerPoints.add(driver.getCar().getMake(), weight);
+        }
+    }
+
+    /**
+     * Merges the sketches of another championship into this one.
+     *
+     * @param other the sketches to merge
+     */
+    public void merge(ChampionshipSketches other) {
+        pointsDistribution.merge(other.pointsDistribution);
+        countries.merge(other.countries);
+        countryPoints.merge(other.countryPoints);
+        manufacturerPoints.merge(other.manufacturerPoints);
+    }
+
+    /**
+     * Gets the distribution of points awarded per result.
+     *
+     * @return the points quantile sketch
+     */
+    public QuantileSketch getPointsDistribution() {
+        return pointsDistribution;
+    }
+
+    /**
+     * Gets the distinct-country sketch.
+     *
+     * @return the country HyperLogLog sketch
+     */
+    public HyperLogLog getCountries() {
+        return countries;
+    }
+
+    /**
+     * Gets the points per driver country.
+     *
+     * @return the country points sketch
+     */
+    public CountMinSketch getCountryPoints() {
+        return countryPoints;
+    }
+
+    /**
+     * Gets the points per car manufacturer.
+     *
+     * @return the manufacturer points sketch
+     */
+    public CountMinSketch getManufacturerPoints() {
+        return manufacturerPoints;
+    }
+}
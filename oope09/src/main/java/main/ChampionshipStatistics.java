@@ -1,5 +1,6 @@
 package main;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -61,6 +62,53 @@ public class ChampionshipStatistics {
                 .orElse("No data available");
     }
 
+    /**
+     * Estimates the points awarded per result at the given percentile.
+     * Uses the championship's quantile sketch of recorded results.
+     *
+     * @param percentile the percentile to estimate, between 0 and 100
+     * @return estimated points at the percentile, or 0 if no results
+     */
+    public static double estimatePointsPercentile(double percentile) {
+        ChampionshipManager manager = ChampionshipManager.getInstance();
+        return manager.getSketches().getPointsDistribution().getQuantile(percentile / 100.0);
+    }
+
+    /**
+     * Estimates the number of distinct countries with recorded results.
+     *
+     * @return estimated distinct country count
+     */
+    public static long estimateDistinctCountries() {
+        ChampionshipManager manager = ChampionshipManager.getInstance();
+        return manager.getSketches().getCountries().estimate();
+    }
+
+    /**
+     * Finds the countries that gained the most points from recorded results.
+     * Penalties are counted as zero, so the ranking can differ from
+     * findMostSuccessfulCountry, which ranks by net points.
+     *
+     * @param count the maximum number of countries to return
+     * @return country names ordered by estimated points gained, highest first
+     */
+    public static List<String> findTopCountries(int count) {
+        ChampionshipManager manager = ChampionshipManager.getInstance();
+        return new ArrayList<>(manager.getSketches().getCountryPoints().getTopK(count).keySet());
+    }
+
+    /**
+     * Finds the car manufacturers that gained the most points from recorded results.
+     * Penalties are counted as zero, so only non-negative points are ranked.
+     *
+     * @param count the maximum number of manufacturers to return
+     * @return manufacturer names ordered by estimated points gained, highest first
+     */
+    public static List<String> findTopManufacturers(int count) {
+        ChampionshipManager manager = ChampionshipManager.getInstance();
+        return new ArrayList<>(manager.getSketches().getManufacturerPoints().getTopK(count).keySet());
+    }
+
     /**
      * Gets the total number of races held in the championship.
      * This is tracked through the ChampionshipManager.
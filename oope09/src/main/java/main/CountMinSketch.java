@@ -0,0 +1,179 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Count-min sketch with heavy-hitter tracking for weighted string keys.
+ * Weights are summed in a fixed table of counters, giving estimates that never
+ * undercount, and a bounded set of candidate keys with the largest estimates
+ * is kept so the heaviest keys can be reported. Sketches with the same
+ * dimensions can be merged by adding their tables.
+ */
+public class CountMinSketch {
+    /** Default number of counters per row */
+    public static final int DEFAULT_WIDTH = 1024;
+
+    /** Default number of rows */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /** Default number of heavy-hitter candidates kept */
+    public static final int DEFAULT_CANDIDATES = 32;
+
+    /** Number of counters per row */
+    private int width;
+
+    /** Number of rows */
+    private int depth;
+
+    /** Maximum number of heavy-hitter candidates kept */
+    private int maxCandidates;
+
+    /** Counter table, one row per hash function */
+    private long[][] table;
+
+    /** Heavy-hitter candidates with their estimated weights */
+    private Map<String, Long> candidates;
+
+    /**
+     * Creates a new count-min sketch with the default dimensions.
+     */
+    public CountMinSketch() {
+        this(DEFAULT_WIDTH, DEFAULT_DEPTH, DEFAULT_CANDIDATES);
+    }
+
+    /**
+     * Creates a new count-min sketch.
+     *
+     * @param width the number of counters per row
+     * @param depth the number of rows
+     * @param maxCandidates the maximum number of heavy-hitter candidates kept
+     */
+    public CountMinSketch(int width, int depth, int maxCandidates) {
+        if (width <= 0 || depth <= 0 || maxCandidates <= 0) {
+            throw new IllegalArgumentException("Sketch dimensions must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.maxCandidates = maxCandidates;
+        this.table = new long[depth][width];
+        this.candidates = new HashMap<>();
+    }
+
+    /**
+     * Adds weight to a key.
+     *
+     * @param key the key to update
+     * @param weight the non-negative weight to add
+     */
+    public void add(String key, long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative");
+        }
+        long hash = Hashing.hash64(key);
+        for (int row = 0; row < depth; row++) {
+            table[row][column(hash, row)] += weight;
+        }
+        offerCandidate(key, estimate(key));
+    }
+
+    /**
+     * Estimates the total weight added for a key.
+     * The estimate is never lower than the true weight.
+     *
+     * @param key the key to look up
+     * @return the estimated weight
+     */
+    public long estimate(String key) {
+        long hash = Hashing.hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row][column(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Gets the heaviest keys seen, in descending order of estimated weight.
+     *
+     * @param k the maximum number of keys to return
+     * @return map of keys to estimated weights, heaviest first
+     */
+    public Map<String, Long> getTopK(int k) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(candidates.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            if (top.size() >= k) {
+                break;
+            }
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return top;
+    }
+
+    /**
+     * Merges another sketch into this one.
+     * Both sketches must have been created with the same dimensions.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches with different dimensions");
+        }
+        for (int row = 0; row < depth; row++) {
+            for (int col = 0; col < width; col++) {
+                table[row][col] += other.table[row][col];
+            }
+        }
+
+        // Re-estimate the union of candidates against the merged table
+        List<String> keys = new ArrayList<>(candidates.keySet());
+        keys.addAll(other.candidates.keySet());
+        candidates.clear();
+        for (String key : keys) {
+            offerCandidate(key, estimate(key));
+        }
+    }
+
+    /**
+     * Records a key as a heavy-hitter candidate, evicting the lightest
+     * candidate when the set is full and the key is heavier.
+     *
+     * @param key the candidate key
+     * @param weight the estimated weight of the key
+     */
+    private void offerCandidate(String key, long weight) {
+        if (candidates.containsKey(key) || candidates.size() < maxCandidates) {
+            candidates.put(key, weight);
+            return;
+        }
+        Map.Entry<String, Long> lightest = candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElseThrow();
+        if (weight > lightest.getValue()) {
+            candidates.remove(lightest.getKey());
+            candidates.put(key, weight);
+        }
+    }
+
+    /**
+     * Gets the column of a hashed key in one row.
+     *
+     * @param hash the 64-bit hash of the key
+     * @param row the row index
+     * @return the column index
+     */
+    private int column(long hash, int row) {
+        // Derive row hashes from the two halves of the key hash. An odd step
+        // keeps the rows on distinct columns for power-of-two widths.
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,35 @@
+package main;
+
+/**
+ * Static utility class providing the string hash shared by the statistics sketches.
+ */
+public class Hashing {
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Hashing() {
+        // Utility class should not be instantiated
+    }
+
+    /**
+     * Computes a well-mixed 64-bit hash of a string.
+     *
+     * @param value the string to hash
+     * @return the 64-bit hash
+     */
+    public static long hash64(String value) {
+        // FNV-1a over the characters, finished with the MurmurHash3 mixer
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
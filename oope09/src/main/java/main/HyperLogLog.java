@@ -0,0 +1,92 @@
+package main;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct strings added.
+ * The sketch uses a fixed number of small registers, so memory stays constant,
+ * and two sketches with the same precision can be merged by taking the
+ * maximum of each register.
+ */
+public class HyperLogLog {
+    /** Default number of index bits, giving 4096 registers and about 1.6% error */
+    public static final int DEFAULT_PRECISION = 12;
+
+    /** Number of hash bits used to select a register */
+    private int precision;
+
+    /** Registers holding the longest run of leading zeros seen */
+    private byte[] registers;
+
+    /**
+     * Creates a new HyperLogLog sketch with the default precision.
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a new HyperLogLog sketch.
+     *
+     * @param precision the number of index bits, between 4 and 18
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add
+     */
+    public void add(String value) {
+        long hash = Hashing.hash64(value);
+        int index = (int) (hash >>> (64 - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Estimates the number of distinct values added.
+     *
+     * @return the estimated distinct count
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+
+        // Small cardinalities are estimated more accurately by linear counting
+        if (estimate <= 2.5 * m && emptyRegisters > 0) {
+            estimate = m * Math.log((double) m / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Merges another sketch into this one.
+     * Both sketches must have been created with the same precision.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with different precision");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package main;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Off-heap implementation of RaceResult for rally races.
+ * Each result is stored as a fixed-layout record in a direct ByteBuffer
+ * instead of a ResultEntry object, and driver names are kept in a shared
+ * StringDictionary. This keeps heap usage and GC work flat for very large
+ * result archives.
+ */
+public class OffHeapRaceResult implements RaceResult {
+    /** Size of one record: driver name id, position and points */
+    private static final int RECORD_BYTES = 3 * Integer.BYTES;
+
+    /** Number of records the buffer can hold initially when no size is expected */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The name of the rally event */
+    private String raceName;
+
+    /** The location where the rally is held */
+    private String location;
+
+    /** Dictionary resolving driver name ids */
+    private StringDictionary driverNames;
+
+    /** Sketches updated on each recorded result, or null if not tracked */
+    private ChampionshipSketches sketches;
+
+    /** Direct buffer holding the result records */
+    private ByteBuffer records;
+
+    /** Number of records stored */
+    private int count;
+
+    /**
+     * Creates a new off-heap rally race result using the championship's
+     * shared driver name dictionary.
+     *
+     * @param raceName the name of the rally event
+     * @param location the location where the rally is held
+     */
+    public OffHeapRaceResult(String raceName, String location) {
+        this(raceName, location, ChampionshipManager.getInstance().getDriverNameDictionary());
+    }
+
+    /**
+     * Creates a new off-heap rally race result.
+     *
+     * @param raceName the name of the rally event
+     * @param location the location where the rally is held
+     * @param driverNames the dictionary used to store driver names
+     */
+    public OffHeapRaceResult(String raceName, String location, StringDictionary driverNames) {
+        this(raceName, location, driverNames, null);
+    }
+
+    /**
+     * Creates a new off-heap rally race result that updates statistics sketches.
+     *
+     * @param raceName the name of the rally event
+     * @param location the location where the rally is held
+     * @param driverNames the dictionary used to store driver names
+     * @param sketches the sketches updated on each result, or null to skip statistics
+     */
+    public OffHeapRaceResult(String raceName, String location, StringDictionary driverNames,
+                             ChampionshipSketches sketches) {
+        this(raceName, location, driverNames, sketches, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new off-heap rally race result sized for an expected number of results.
+     * Sizing the buffer up front avoids discarding direct buffers while it grows,
+     * whose native memory is only released after a garbage collection.
+     *
+     * @param raceName the name of the rally event
+     * @param location the location where the rally is held
+     * @param driverNames the dictionary used to store driver names
+     * @param sketches the sketches updated on each result, or null to skip statistics
+     * @param expectedResults the number of results the race is expected to hold
+     */
+    public OffHeapRaceResult(String raceName, String location, StringDictionary driverNames,
+                             ChampionshipSketches sketches, int expectedResults) {
+        this.raceName = raceName;
+        this.location = location;
+        this.driverNames = driverNames;
+        this.sketches = sketches;
+        this.records = ByteBuffer.allocateDirect(Math.max(expectedResults, 1) * RECORD_BYTES);
+        this.count = 0;
+    }
+
+    @Override
+    public void recordResult(Driver driver, int position, int points) {
+        if (sketches != null) {
+            sketches.record(driver, points);
+        }
+        if (records.capacity() < (count + 1) * RECORD_BYTES) {
+            grow();
+        }
+        int offset = count * RECORD_BYTES;
+        records.putInt(offset, driverNames.intern(driver.getName()));
+        records.putInt(offset + Integer.BYTES, position);
+        records.putInt(offset + 2 * Integer.BYTES, points);
+        count++;
+        driver.addPoints(points);
+    }
+
+    @Override
+    public String getResults() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Race: %s (%s)\n", raceName, location));
+
+        // Sort record indices by position, packed as (position, index) pairs
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) positionAt(i) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        for (long packed : order) {
+            int offset = (int) packed * RECORD_BYTES;
+            sb.append(String.format(" Position %d: %s - %d points\n",
+                records.getInt(offset + Integer.BYTES),
+                driverNames.lookup(records.getInt(offset)),
+                records.getInt(offset + 2 * Integer.BYTES)));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Gets the name of the rally event.
+     *
+     * @return the rally name
+     */
+    public String getRaceName() {
+        return raceName;
+    }
+
+    /**
+     * Gets the location of the rally event.
+     *
+     * @return the rally location
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the number of results recorded in this race.
+     *
+     * @return number of recorded results
+     */
+    public int getResultCount() {
+        return count;
+    }
+
+    /**
+     * Gets the finishing position stored in a record.
+     *
+     * @param index the record index
+     * @return the finishing position
+     */
+    private int positionAt(int index) {
+        return records.getInt(index * RECORD_BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Doubles the capacity of the record buffer, copying existing records.
+     */
+    private void grow() {
+        ByteBuffer larger = ByteBuffer.allocateDirect(records.capacity() * 2);
+        records.position(0).limit(count * RECORD_BYTES);
+        larger.put(records);
+        records.clear();
+        records = larger;
+    }
+}
@@ -0,0 +1,158 @@
+package main;
+
+/**
+ * Mergeable quantile sketch for integer values.
+ * Values are counted in logarithmically sized buckets by magnitude, with
+ * separate buckets for negative values, so every estimated quantile is within
+ * a fixed relative error of the true value while the sketch uses a constant
+ * amount of memory regardless of how many values are added.
+ */
+public class QuantileSketch {
+    /** Default relative accuracy of the estimated quantiles */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    /** The relative accuracy of the estimated quantiles */
+    private double relativeAccuracy;
+
+    /** Ratio between the bounds of consecutive buckets */
+    private double gamma;
+
+    /** Cached natural logarithm of gamma */
+    private double logGamma;
+
+    /** Number of zero values added */
+    private long zeroCount;
+
+    /** Counts of positive values per logarithmic bucket */
+    private long[] positiveBuckets;
+
+    /** Counts of negative values per logarithmic bucket of their magnitude */
+    private long[] negativeBuckets;
+
+    /** Total number of values added */
+    private long count;
+
+    /**
+     * Creates a new quantile sketch with the default relative accuracy.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates a new quantile sketch.
+     *
+     * @param relativeAccuracy the relative accuracy of estimated quantiles, between 0 and 1
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positiveBuckets = new long[bucketIndex(Integer.MAX_VALUE) + 1];
+        this.negativeBuckets = new long[bucketIndex(-(long) Integer.MIN_VALUE) + 1];
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        if (value > 0) {
+            positiveBuckets[bucketIndex(value)]++;
+        } else if (value < 0) {
+            negativeBuckets[bucketIndex(-(long) value)]++;
+        } else {
+            zeroCount++;
+        }
+        count++;
+    }
+
+    /**
+     * Estimates the value at the given quantile.
+     *
+     * @param quantile the quantile to estimate, between 0 and 1
+     * @return the estimated value, or 0 if the sketch is empty
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = 0;
+
+        // Negative values ascend from the largest magnitude down
+        for (int i = negativeBuckets.length - 1; i >= 0; i--) {
+            seen += negativeBuckets[i];
+            if (rank < seen) {
+                return -bucketValue(i);
+            }
+        }
+        seen += zeroCount;
+        if (rank < seen) {
+            return 0.0;
+        }
+        for (int i = 0; i < positiveBuckets.length; i++) {
+            seen += positiveBuckets[i];
+            if (rank < seen) {
+                return bucketValue(i);
+            }
+        }
+        return bucketValue(positiveBuckets.length - 1);
+    }
+
+    /**
+     * Gets the total number of values added.
+     *
+     * @return number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Merges another sketch into this one.
+     * Both sketches must have been created with the same relative accuracy.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        for (int i = 0; i < positiveBuckets.length; i++) {
+            positiveBuckets[i] += other.positiveBuckets[i];
+        }
+        for (int i = 0; i < negativeBuckets.length; i++) {
+            negativeBuckets[i] += other.negativeBuckets[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Gets the bucket holding a positive magnitude.
+     *
+     * @param magnitude the positive magnitude
+     * @return the bucket index
+     */
+    private int bucketIndex(long magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    /**
+     * Gets the representative magnitude of a bucket.
+     *
+     * @param index the bucket index
+     * @return the magnitude within the relative accuracy of every value in the bucket
+     */
+    private double bucketValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+}
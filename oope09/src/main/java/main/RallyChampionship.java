@@ -39,7 +39,8 @@ public class RallyChampionship {
         manager.registerDriver(neuville);
 
         // Create and record Rally Finland results
-        RaceResult finlandRally = new RallyRaceResult("Rally Finland", "Jyväskylä");
+        RaceResult finlandRally = new RallyRaceResult("Rally Finland", "Jyväskylä",
+            manager.getSketches());
         finlandRally.recordResult(ogier, 1, 25);
         finlandRally.recordResult(tanak, 2, 18);
         finlandRally.recordResult(rovanpera, 3, 15);
@@ -51,7 +52,8 @@ public class RallyChampionship {
         rovanpera.setCar(gravelCar1);
 
         // Create and record Monte Carlo Rally results
-        RaceResult monteCarloRally = new RallyRaceResult("Monte Carlo Rally", "Monaco");
+        RaceResult monteCarloRally = new RallyRaceResult("Monte Carlo Rally", "Monaco",
+            manager.getSketches());
         monteCarloRally.recordResult(rovanpera, 1, 25);
         monteCarloRally.recordResult(neuville, 2, 18);
         monteCarloRally.recordResult(ogier, 3, 15);
@@ -76,6 +78,12 @@ public class RallyChampionship {
             ChampionshipStatistics.findMostSuccessfulCountry());
         System.out.println("Total Championship Points: " + 
             manager.getTotalChampionshipPoints());
+        System.out.printf("Median Points Per Result: %.1f\n",
+            ChampionshipStatistics.estimatePointsPercentile(50));
+        System.out.println("Distinct Countries: " +
+            ChampionshipStatistics.estimateDistinctCountries());
+        System.out.println("Top Manufacturers: " +
+            ChampionshipStatistics.findTopManufacturers(3));
 
         // Display race results
         System.out.println("===== RACE RESULTS =====");
@@ -19,6 +19,9 @@ public class RallyRaceResult implements RaceResult {
     /** List of result entries for the race */
     private List<ResultEntry> results;
 
+    /** Sketches updated on each recorded result, or null if not tracked */
+    private ChampionshipSketches sketches;
+
     /**
      * Creates a new rally race result.
      *
@@ -26,13 +29,28 @@ public class RallyRaceResult implements RaceResult {
      * @param location the location where the rally is held
      */
     public RallyRaceResult(String raceName, String location) {
+        this(raceName, location, null);
+    }
+
+    /**
+     * Creates a new rally race result that updates statistics sketches.
+     *
+     * @param raceName the name of the rally event
+     * @param location the location where the rally is held
+     * @param sketches the sketches updated on each result, or null to skip statistics
+     */
+    public RallyRaceResult(String raceName, String location, ChampionshipSketches sketches) {
         this.raceName = raceName;
         this.location = location;
         this.results = new ArrayList<>();
+        this.sketches = sketches;
     }
 
     @Override
     public void recordResult(Driver driver, int position, int points) {
+        if (sketches != null) {
+            sketches.record(driver, points);
+        }
         results.add(new ResultEntry(driver, position, points));
         driver.addPoints(points);
     }
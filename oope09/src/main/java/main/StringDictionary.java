@@ -0,0 +1,62 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary mapping strings to compact integer identifiers.
+ * Off-heap storage keeps only these identifiers in its fixed-layout records,
+ * so each distinct string is held on the heap exactly once.
+ */
+public class StringDictionary {
+    /** Strings indexed by their identifier */
+    private List<String> values;
+
+    /** Identifiers indexed by their string */
+    private Map<String, Integer> ids;
+
+    /**
+     * Creates a new empty dictionary.
+     */
+    public StringDictionary() {
+        values = new ArrayList<>();
+        ids = new HashMap<>();
+    }
+
+    /**
+     * Gets the identifier of a string, assigning a new one if it is not yet known.
+     *
+     * @param value the string to look up
+     * @return the identifier of the string
+     */
+    public int intern(String value) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            values.add(value);
+            ids.put(value, id);
+        }
+        return id;
+    }
+
+    /**
+     * Gets the string stored under an identifier.
+     *
+     * @param id the identifier to resolve
+     * @return the string for the identifier
+     */
+    public String lookup(int id) {
+        return values.get(id);
+    }
+
+    /**
+     * Gets the number of distinct strings in the dictionary.
+     *
+     * @return number of distinct strings
+     */
+    public int size() {
+        return values.size();
+    }
+}
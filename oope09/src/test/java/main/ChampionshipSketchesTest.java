@@ -0,0 +1,106 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ChampionshipSketches.
+ */
+public class ChampionshipSketchesTest {
+
+    /**
+     * Sketches filled by separate championships through injected race
+     * results merge into the combined statistics.
+     */
+    @Test
+    public void shouldMergeSketchesFromSeparateChampionships() {
+        RallyCar subaru = new GravelCar("Subaru", "Impreza", 400, 250);
+        RallyCar toyota = new AsphaltCar("Toyota", "Yaris", 380, 300);
+        Driver ogier = new Driver("Sébastien Ogier", "France", subaru);
+        Driver rovanpera = new Driver("Kalle Rovanperä", "Finland", toyota);
+        Driver tanak = new Driver("Ott Tänak", "Estonia", toyota);
+
+        ChampionshipSketches firstSeason = new ChampionshipSketches();
+        RaceResult finland = new RallyRaceResult("Rally Finland", "Jyväskylä", firstSeason);
+        finland.recordResult(ogier, 1, 25);
+        finland.recordResult(rovanpera, 2, 18);
+
+        ChampionshipSketches secondSeason = new ChampionshipSketches();
+        RaceResult monteCarlo = new OffHeapRaceResult("Monte Carlo Rally", "Monaco",
+                new StringDictionary(), secondSeason);
+        monteCarlo.recordResult(rovanpera, 1, 25);
+        monteCarlo.recordResult(tanak, 2, 18);
+        monteCarlo.recordResult(ogier, 3, 15);
+
+        firstSeason.merge(secondSeason);
+
+        assertEquals(5, firstSeason.getPointsDistribution().getCount());
+        assertEquals(3, firstSeason.getCountries().estimate());
+        assertEquals(List.of("Finland", "France", "Estonia"),
+                new ArrayList<>(firstSeason.getCountryPoints().getTopK(3).keySet()));
+        assertEquals(List.of("Toyota", "Subaru"),
+                new ArrayList<>(firstSeason.getManufacturerPoints().getTopK(2).keySet()));
+    }
+
+    /**
+     * Penalties are accepted by both race result implementations and
+     * counted in the points distribution without adding weight.
+     */
+    @Test
+    public void shouldRecordNegativePoints() {
+        RallyCar car = new GravelCar("Ford", "Fiesta", 380, 240);
+        Driver onHeapDriver = new Driver("Ott Tänak", "Estonia", car);
+        Driver offHeapDriver = new Driver("Ott Tänak", "Estonia", car);
+        ChampionshipSketches sketches = new ChampionshipSketches();
+
+        new RallyRaceResult("Rally Estonia", "Tartu", sketches).recordResult(onHeapDriver, 1, -5);
+        new OffHeapRaceResult("Rally Estonia", "Tartu", new StringDictionary(), sketches)
+                .recordResult(offHeapDriver, 1, -5);
+
+        assertEquals(-5, onHeapDriver.getTotalPoints());
+        assertEquals(-5, offHeapDriver.getTotalPoints());
+        assertEquals(2, sketches.getPointsDistribution().getCount());
+        assertEquals(-5.0, sketches.getPointsDistribution().getQuantile(0.5), 0.05);
+        assertEquals(0, sketches.getCountryPoints().estimate("Estonia"));
+        assertEquals(0, sketches.getManufacturerPoints().estimate("Ford"));
+    }
+
+    /**
+     * Drivers without a country or car manufacturer are still recorded.
+     */
+    @Test
+    public void shouldRecordDriversWithoutCountryOrMake() {
+        Driver driver = new Driver("Privateer", null, new GravelCar(null, "Special", 300, 200));
+        Driver noCar = new Driver("Co-driver", null, null);
+        ChampionshipSketches sketches = new ChampionshipSketches();
+
+        RaceResult race = new RallyRaceResult("Rally Sweden", "Umeå", sketches);
+        race.recordResult(driver, 1, 25);
+        race.recordResult(noCar, 2, 18);
+
+        assertEquals(43, driver.getTotalPoints() + noCar.getTotalPoints());
+        assertEquals(2, sketches.getPointsDistribution().getCount());
+        assertEquals(0, sketches.getCountries().estimate());
+        assertEquals(0, sketches.getCountryPoints().getTopK(1).size());
+        assertEquals(0, sketches.getManufacturerPoints().getTopK(1).size());
+    }
+
+    /**
+     * Race results created without sketches leave the championship's sketches untouched.
+     */
+    @Test
+    public void shouldNotFeedChampionshipSketchesByDefault() {
+        ChampionshipSketches championship = ChampionshipManager.getInstance().getSketches();
+        long before = championship.getPointsDistribution().getCount();
+        Driver driver = new Driver("Ott Tänak", "Estonia", new GravelCar("Ford", "Fiesta", 380, 240));
+
+        new RallyRaceResult("Rally Estonia", "Tartu").recordResult(driver, 1, 25);
+        new OffHeapRaceResult("Rally Estonia", "Tartu").recordResult(driver, 1, 25);
+
+        assertEquals(before, championship.getPointsDistribution().getCount());
+    }
+}
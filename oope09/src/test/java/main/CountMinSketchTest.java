@@ -0,0 +1,76 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CountMinSketch.
+ */
+public class CountMinSketchTest {
+
+    /**
+     * Estimates never fall below the exact weights, even in a narrow table
+     * where many keys collide.
+     */
+    @Test
+    public void shouldNeverUndercount() {
+        CountMinSketch sketch = new CountMinSketch(64, 4, 8);
+        Map<String, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            String key = "Make " + random.nextInt(2000);
+            long weight = random.nextInt(26);
+            sketch.add(key, weight);
+            exact.merge(key, weight, Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : exact.entrySet()) {
+            assertTrue(sketch.estimate(entry.getKey()) >= entry.getValue());
+        }
+    }
+
+    /**
+     * Heavy keys split unevenly across two sketches are reported in the
+     * right order after merging.
+     */
+    @Test
+    public void shouldKeepTopKOrderAfterMerge() {
+        CountMinSketch first = new CountMinSketch();
+        CountMinSketch second = new CountMinSketch();
+        first.add("Toyota", 500);
+        first.add("Subaru", 100);
+        second.add("Subaru", 450);
+        second.add("Ford", 300);
+        second.add("Toyota", 20);
+        for (int i = 0; i < 1000; i++) {
+            (i % 2 == 0 ? first : second).add("Privateer " + i, 1);
+        }
+        first.merge(second);
+
+        Map<String, Long> top = first.getTopK(3);
+        assertEquals(List.of("Subaru", "Toyota", "Ford"), new ArrayList<>(top.keySet()));
+        assertTrue(top.get("Subaru") >= 550);
+        assertTrue(top.get("Toyota") >= 520);
+    }
+
+    /**
+     * Negative weights and merges of sketches with different dimensions are rejected.
+     */
+    @Test
+    public void shouldRejectInvalidInput() {
+        CountMinSketch sketch = new CountMinSketch();
+        assertThrows(IllegalArgumentException.class, () -> sketch.add("Ford", -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> sketch.merge(new CountMinSketch(512, CountMinSketch.DEFAULT_DEPTH, 32)));
+        assertThrows(IllegalArgumentException.class,
+                () -> sketch.merge(new CountMinSketch(CountMinSketch.DEFAULT_WIDTH, 2, 32)));
+    }
+}
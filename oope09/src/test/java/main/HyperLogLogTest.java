@@ -0,0 +1,53 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for HyperLogLog.
+ */
+public class HyperLogLogTest {
+
+    /**
+     * Small cardinalities are counted almost exactly and duplicates are ignored.
+     */
+    @Test
+    public void shouldEstimateSmallCardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 10; repeat++) {
+            for (int i = 0; i < 20; i++) {
+                sketch.add("Country " + i);
+            }
+        }
+        assertEquals(20, sketch.estimate(), 1);
+    }
+
+    /**
+     * Large cardinalities from two merged sketches with overlapping values
+     * are estimated within a few standard errors.
+     */
+    @Test
+    public void shouldEstimateLargeCardinalityAfterMerge() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            first.add("Driver " + i);
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            second.add("Driver " + i);
+        }
+        first.merge(second);
+        assertEquals(100_000, first.estimate(), 100_000 * 0.05);
+    }
+
+    /**
+     * Sketches with different precision cannot be merged.
+     */
+    @Test
+    public void shouldRejectMergeWithDifferentPrecision() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(10)));
+    }
+}
@@ -0,0 +1,47 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for OffHeapRaceResult, checked against RallyRaceResult.
+ */
+public class OffHeapRaceResultTest {
+
+    /**
+     * Records the same results, out of order and with duplicate positions,
+     * into both implementations. The buffer must grow past its initial
+     * capacity and the output must match the on-heap implementation.
+     */
+    @Test
+    public void shouldMatchOnHeapResultsBeyondInitialCapacity() {
+        RallyCar car = new GravelCar("Subaru", "Impreza", 400, 250);
+        List<Driver> onHeapDrivers = new ArrayList<>();
+        List<Driver> offHeapDrivers = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            onHeapDrivers.add(new Driver("Driver " + i, "Finland", car));
+            offHeapDrivers.add(new Driver("Driver " + i, "Finland", car));
+        }
+
+        RaceResult onHeap = new RallyRaceResult("Rally Finland", "Jyväskylä", null);
+        OffHeapRaceResult offHeap = new OffHeapRaceResult("Rally Finland", "Jyväskylä",
+                new StringDictionary(), null);
+        for (int i = 0; i < 40; i++) {
+            // Positions run backwards and every position is shared by two drivers
+            int position = 20 - i / 2;
+            int points = i * 3 - 10;
+            onHeap.recordResult(onHeapDrivers.get(i), position, points);
+            offHeap.recordResult(offHeapDrivers.get(i), position, points);
+        }
+
+        assertEquals(40, offHeap.getResultCount());
+        assertEquals(onHeap.getResults(), offHeap.getResults());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(onHeapDrivers.get(i).getTotalPoints(), offHeapDrivers.get(i).getTotalPoints());
+        }
+    }
+}
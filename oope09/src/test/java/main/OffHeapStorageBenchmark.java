@@ -0,0 +1,176 @@
+package main;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Benchmark comparing GC pauses of on-heap and off-heap race result storage.
+ * Builds a large archive of race results with each backend, keeps it reachable
+ * and reports retained heap and direct memory, the number of collections and
+ * their pause times. Every collection while the archive is built is counted,
+ * including those forced by direct buffer allocation.
+ * Run with: java -cp target/classes:target/test-classes main.OffHeapStorageBenchmark [races] [resultsPerRace]
+ */
+public class OffHeapStorageBenchmark {
+    /** Number of drivers taking part in each race */
+    private static final int DRIVER_COUNT = 200;
+
+    /** Longest time to wait for pending GC notifications, in milliseconds */
+    private static final long NOTIFICATION_TIMEOUT_MS = 5_000;
+
+    /** Pause durations in milliseconds of every collection since listening started */
+    private static final List<Long> pauses = new ArrayList<>();
+
+    /** Number of collections that happened before listening started */
+    private static long collectionsBeforeListening;
+
+    /**
+     * Entry point for the benchmark.
+     *
+     * @param args optional race count and results per race
+     * @throws InterruptedException if interrupted while waiting for GC notifications
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int raceCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int resultsPerRace = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        List<Driver> drivers = new ArrayList<>();
+        RallyCar car = new GravelCar("Subaru", "Impreza", 400, 250);
+        for (int i = 0; i < DRIVER_COUNT; i++) {
+            drivers.add(new Driver("Driver " + i, "Country " + (i % 20), car));
+        }
+
+        collectionsBeforeListening = gcCount();
+        NotificationListener listener = OffHeapStorageBenchmark::recordPause;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).addNotificationListener(listener, null, null);
+        }
+
+        System.out.printf("Archive: %d races x %d results%n", raceCount, resultsPerRace);
+        run("On-heap ", drivers, raceCount, resultsPerRace, false);
+        run("Off-heap", drivers, raceCount, resultsPerRace, true);
+    }
+
+    /**
+     * Builds an archive with one backend and prints its GC statistics.
+     *
+     * @param label the backend label to print
+     * @param drivers the drivers taking part in each race
+     * @param raceCount the number of races to build
+     * @param resultsPerRace the number of results per race
+     * @param offHeap whether to use the off-heap backend
+     * @throws InterruptedException if interrupted while waiting for GC notifications
+     */
+    private static void run(String label, List<Driver> drivers, int raceCount,
+                            int resultsPerRace, boolean offHeap) throws InterruptedException {
+        System.gc();
+        int firstPause = awaitPauses().size();
+        long start = System.nanoTime();
+
+        List<RaceResult> archive = new ArrayList<>(raceCount);
+        StringDictionary names = new StringDictionary();
+        for (int r = 0; r < raceCount; r++) {
+            // No sketches, so only the storage backend is measured
+            RaceResult race = offHeap
+                    ? new OffHeapRaceResult("Rally " + r, "Location", names, null, resultsPerRace)
+                    : new RallyRaceResult("Rally " + r, "Location", null);
+            for (int p = 1; p <= resultsPerRace; p++) {
+                race.recordResult(drivers.get((r + p) % drivers.size()), p, resultsPerRace - p);
+            }
+            archive.add(race);
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        List<Long> all = awaitPauses();
+        List<Long> measured = all.subList(firstPause, all.size());
+
+        // Collect with the archive still reachable to measure its retained cost
+        System.gc();
+        awaitPauses();
+        Runtime runtime = Runtime.getRuntime();
+        long heapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        long directMb = directMemoryUsed() / (1024 * 1024);
+
+        long totalPause = measured.stream().mapToLong(Long::longValue).sum();
+        long maxPause = measured.stream().mapToLong(Long::longValue).max().orElse(0);
+
+        System.out.printf("%s: %d races, heap retained %d MB, direct retained %d MB, "
+            + "%d collections, %d ms total pause, %d ms max pause, %d ms elapsed%n",
+            label, archive.size(), heapMb, directMb, measured.size(), totalPause, maxPause, elapsedMs);
+    }
+
+    /**
+     * Records the pause of a finished collection.
+     *
+     * @param notification the notification sent by a garbage collector
+     * @param handback unused handback object
+     */
+    private static void recordPause(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        synchronized (pauses) {
+            pauses.add(info.getGcInfo().getDuration());
+            pauses.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until a notification has arrived for every collection so far.
+     * GC notifications are delivered asynchronously, after the collection ends.
+     *
+     * @return copy of the pause durations received since listening started
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static List<Long> awaitPauses() throws InterruptedException {
+        long expected = gcCount() - collectionsBeforeListening;
+        long deadline = System.currentTimeMillis() + NOTIFICATION_TIMEOUT_MS;
+        synchronized (pauses) {
+            while (pauses.size() < expected) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Missing GC notifications: expected "
+                        + expected + ", received " + pauses.size());
+                }
+                pauses.wait(remaining);
+            }
+            return new ArrayList<>(pauses);
+        }
+    }
+
+    /**
+     * Gets the memory used by direct buffers.
+     *
+     * @return direct buffer memory in bytes
+     */
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the total number of collections across all collectors.
+     *
+     * @return total collection count
+     */
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,59 @@
+package main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for QuantileSketch.
+ */
+public class QuantileSketchTest {
+
+    /**
+     * Estimated quantiles of signed values, built from two merged halves,
+     * stay within the relative accuracy of the exact sorted values.
+     */
+    @Test
+    public void shouldEstimateQuantilesWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        int[] values = new int[100_000];
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(2000) - 200;
+            (i % 2 == 0 ? first : second).add(values[i]);
+        }
+        first.merge(second);
+        Arrays.sort(values);
+
+        assertEquals(values.length, first.getCount());
+        for (double quantile : new double[] {0.0, 0.01, 0.05, 0.25, 0.5, 0.75, 0.95, 0.99, 1.0}) {
+            int exact = values[(int) (quantile * (values.length - 1))];
+            double tolerance = Math.abs(exact) * QuantileSketch.DEFAULT_RELATIVE_ACCURACY + 1e-9;
+            assertEquals(exact, first.getQuantile(quantile), tolerance, "quantile " + quantile);
+        }
+    }
+
+    /**
+     * An empty sketch estimates zero and invalid quantiles are rejected.
+     */
+    @Test
+    public void shouldHandleEmptySketchAndInvalidQuantile() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0.0, sketch.getQuantile(0.5), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.5));
+    }
+
+    /**
+     * Sketches with different relative accuracy cannot be merged.
+     */
+    @Test
+    public void shouldRejectMergeWithDifferentAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(0.02)));
+    }
+}